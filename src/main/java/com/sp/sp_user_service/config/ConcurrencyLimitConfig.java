@@ -0,0 +1,49 @@
+package com.sp.sp_user_service.config;
+
+import com.sp.sp_user_service.limiter.AdaptiveConcurrencyLimiter;
+import com.sp.sp_user_service.limiter.ConcurrencyLimitInterceptor;
+import com.sp.sp_user_service.limiter.ConcurrencyLimitMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter signUpConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter("signup", properties.getSignup());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter loginConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter("login", properties.getLogin());
+    }
+
+    @Bean
+    public ConcurrencyLimitMetrics concurrencyLimitMetrics(List<AdaptiveConcurrencyLimiter> limiters) {
+        return new ConcurrencyLimitMetrics(limiters);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(signUpConcurrencyLimiter(), properties.getRetryAfterSeconds()))
+                .addPathPatterns("/user/signup");
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(loginConcurrencyLimiter(), properties.getRetryAfterSeconds()))
+                .addPathPatterns("/user/login");
+    }
+}
@@ -0,0 +1,48 @@
+package com.sp.sp_user_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-service.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Value of the Retry-After header (in seconds) sent with shed requests.
+     */
+    private long retryAfterSeconds = 1;
+
+    private Limit signup = new Limit();
+
+    private Limit login = new Limit();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 200;
+
+        /**
+         * Weight given to a newly computed limit, between 0 (never move) and 1 (no smoothing).
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * How much the short-term RTT may exceed the long-term RTT before the limit starts shrinking.
+         */
+        private double rttTolerance = 1.5;
+
+        /**
+         * Factor applied to the limit whenever a request fails with a server error.
+         */
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sp.sp_user_service.config;
+
+import com.sp.sp_user_service.logging.LogIdentifiers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+
+@Configuration
+@EnableConfigurationProperties(LoggingProperties.class)
+public class LoggingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingConfig.class);
+
+    @Bean
+    public LogIdentifiers logIdentifiers(LoggingProperties properties) {
+        if (StringUtils.hasText(properties.getIdentifierHashKey())) {
+            return new LogIdentifiers(properties.getIdentifierHashKey().getBytes(StandardCharsets.UTF_8));
+        }
+        logger.warn("No user-service.logging.identifier-hash-key configured, using a random key; "
+                + "identifier hashes will not match across nodes or restarts");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new LogIdentifiers(key);
+    }
+}
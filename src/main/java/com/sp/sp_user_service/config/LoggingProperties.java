@@ -0,0 +1,56 @@
+package com.sp.sp_user_service.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-service.logging")
+public class LoggingProperties {
+
+    /**
+     * Secret used to hash emails and user ids in log lines. Share it across nodes to correlate
+     * their logs; when empty a random key is generated at startup.
+     */
+    private String identifierHashKey;
+
+    private Sampling sampling = new Sampling();
+
+    /**
+     * Sampling of each log event on the request path, keyed by event.
+     */
+    @Getter
+    @Setter
+    public static class Sampling {
+
+        private Event signup = new Event(1, 100);
+
+        private Event login = new Event(10, 100);
+
+        private Event logout = new Event(10, 100);
+
+        private Event validationFailed = new Event(1, 20);
+
+        private Event requestFailed = new Event(1, 20);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Event {
+
+        /**
+         * Write one in every this many occurrences.
+         */
+        private int sampleEvery = 1;
+
+        /**
+         * Upper bound on occurrences written per second, after sampling.
+         */
+        private int maxPerSecond = 100;
+    }
+}
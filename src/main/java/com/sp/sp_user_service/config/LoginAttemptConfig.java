@@ -0,0 +1,28 @@
+package com.sp.sp_user_service.config;
+
+import com.sp.sp_user_service.lockout.JpaLoginAttemptStore;
+import com.sp.sp_user_service.lockout.LoginAttemptStore;
+import com.sp.sp_user_service.lockout.LoginAttemptTracker;
+import com.sp.sp_user_service.repository.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LoginAttemptProperties.class)
+public class LoginAttemptConfig {
+
+    @Bean
+    public LoginAttemptTracker loginAttemptTracker(LoginAttemptProperties properties,
+                                                   ObjectProvider<LoginAttemptStore> loginAttemptStore,
+                                                   UserRepository userRepository) {
+        // A LoginAttemptStore bean, e.g. Redis-backed, wins; otherwise lockouts live on the users table
+        LoginAttemptStore store = loginAttemptStore.getIfAvailable(() -> new JpaLoginAttemptStore(userRepository));
+        return new LoginAttemptTracker(properties, store, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,33 @@
+package com.sp.sp_user_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-service.login-attempts")
+public class LoginAttemptProperties {
+
+    /**
+     * Failed logins within {@link #window} that lock the account.
+     */
+    private int maxFailures = 5;
+
+    private Duration window = Duration.ofMinutes(15);
+
+    private Duration lockDuration = Duration.ofMinutes(15);
+
+    /**
+     * Logins tracked in memory per node. Past this the oldest windows are dropped first, so a
+     * spray of distinct emails cannot grow the tracker without bound.
+     */
+    private int maxTrackedLogins = 100_000;
+
+    /**
+     * How often lockouts raised on other nodes are read from the store and idle entries dropped.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+}
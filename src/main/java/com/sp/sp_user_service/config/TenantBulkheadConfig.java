@@ -0,0 +1,16 @@
+package com.sp.sp_user_service.config;
+
+import com.sp.sp_user_service.limiter.TenantBulkhead;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TenantBulkheadProperties.class)
+public class TenantBulkheadConfig {
+
+    @Bean
+    public TenantBulkhead tenantBulkhead(TenantBulkheadProperties properties) {
+        return new TenantBulkhead(properties);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sp.sp_user_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-service.tenant-bulkhead")
+public class TenantBulkheadProperties {
+
+    /**
+     * Tenants that get a bulkhead of their own, with no other tenant hashed onto it. Tenants listed in {@link #tenantMaxConcurrentCalls}
+     * are included implicitly.
+     */
+    private Set<String> tenants = new HashSet<>();
+
+    /**
+     * Concurrent auth calls a single listed tenant, or a single stripe of unlisted tenants, may
+     * run. Keep this below the connection pool size so one tenant alone cannot drain it.
+     */
+    private int maxConcurrentCalls = 5;
+
+    /**
+     * Per-tenant overrides of {@link #maxConcurrentCalls}, keyed by tenant id.
+     */
+    private Map<String, Integer> tenantMaxConcurrentCalls = new HashMap<>();
+
+    /**
+     * Number of bulkheads, each of {@link #maxConcurrentCalls}, that unlisted tenant ids are hashed
+     * onto. The id comes from the request body, so unlisted ids must not each get a fresh quota.
+     */
+    private int unlistedStripes = 64;
+
+    private long retryAfterSeconds = 1;
+}
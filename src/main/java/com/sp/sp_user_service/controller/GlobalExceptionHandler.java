@@ -1,8 +1,16 @@
 package com.sp.sp_user_service.controller;
 
+import com.sp.sp_user_service.config.LoggingProperties;
+import com.sp.sp_user_service.limiter.ServiceOverloadedException;
+import com.sp.sp_user_service.limiter.TenantThrottledException;
+import com.sp.sp_user_service.lockout.AccountLockedException;
+import com.sp.sp_user_service.logging.LogSampler;
 import com.sp.sp_user_service.model.GenericResponse;
+import com.sp.sp_user_service.service.InvalidCredentialsException;
+import com.sp.sp_user_service.service.UserAlreadyExistsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,20 +24,74 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final LogSampler validationLogSampler;
+    private final LogSampler errorLogSampler;
+
+    public GlobalExceptionHandler(LoggingProperties loggingProperties) {
+        this.validationLogSampler = new LogSampler(loggingProperties.getSampling().getValidationFailed());
+        this.errorLogSampler = new LogSampler(loggingProperties.getSampling().getRequestFailed());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<GenericResponse<Void>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         String errorMessage = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .collect(Collectors.joining(", "));
 
-        logger.warn("Validation failed: {}", errorMessage);
+        if (validationLogSampler.sample()) {
+            logger.atWarn()
+                    .addKeyValue("event", "request.validation_failed")
+                    .addKeyValue("skipped", validationLogSampler.drainSkipped())
+                    .log("Validation failed: {}", errorMessage);
+        }
         return ResponseEntity.badRequest()
                 .body(new GenericResponse<>(HttpStatus.BAD_REQUEST.value(), errorMessage));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<GenericResponse<Void>> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        logger.debug("Request shed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new GenericResponse<>(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service is busy, please retry later"));
+    }
+
+    @ExceptionHandler(TenantThrottledException.class)
+    public ResponseEntity<GenericResponse<Void>> handleTenantThrottledException(TenantThrottledException ex) {
+        logger.debug("Request throttled: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new GenericResponse<>(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many concurrent requests for this tenant, please retry later"));
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<GenericResponse<Void>> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new GenericResponse<>(HttpStatus.UNAUTHORIZED.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<GenericResponse<Void>> handleUserAlreadyExistsException(UserAlreadyExistsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new GenericResponse<>(HttpStatus.CONFLICT.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(AccountLockedException.class)
+    public ResponseEntity<GenericResponse<Void>> handleAccountLockedException(AccountLockedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new GenericResponse<>(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many failed login attempts, please retry later"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<GenericResponse<Void>> handleGenericException(Exception ex) {
-        logger.error("An unexpected error occurred: {}", ex.getMessage(), ex);
+        if (errorLogSampler.sample()) {
+            logger.atError()
+                    .setCause(ex)
+                    .addKeyValue("event", "request.failed")
+                    .addKeyValue("skipped", errorLogSampler.drainSkipped())
+                    .log("An unexpected error occurred: {}", ex.getMessage());
+        }
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new GenericResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "An unexpected error occurred"));
     }
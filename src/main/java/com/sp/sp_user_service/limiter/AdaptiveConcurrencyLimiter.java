@@ -0,0 +1,123 @@
+package com.sp.sp_user_service.limiter;
+
+import com.sp.sp_user_service.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient based concurrency limiter. The limit grows while the latency of completed requests
+ * stays close to its long-term average and shrinks as soon as requests start queueing (for example
+ * because the database slowed down), so excess load is rejected up front instead of piling up on
+ * request threads.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_ALPHA = 2.0 / 601;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties.Limit limit) {
+        this.name = name;
+        this.minLimit = limit.getMinLimit();
+        this.maxLimit = limit.getMaxLimit();
+        this.smoothing = limit.getSmoothing();
+        this.rttTolerance = limit.getRttTolerance();
+        this.backoffRatio = limit.getBackoffRatio();
+        this.estimatedLimit = clamp(limit.getInitialLimit());
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and feeds the observed round trip time into the limit.
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        updateLimit(rttNanos, inFlightAtCompletion);
+    }
+
+    /**
+     * Releases a permit without adjusting the limit, e.g. for client errors that say nothing about load.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases a permit and backs the limit off after a server side failure.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            estimatedLimit = clamp(estimatedLimit * backoffRatio);
+        }
+    }
+
+    private synchronized void updateLimit(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_ALPHA;
+        }
+        // Let the baseline follow latency back down quickly once a slowdown is over
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Requests are not queueing when we are using less than half the limit, so the sample says nothing
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package com.sp.sp_user_service.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+    private final String startAttribute;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.startAttribute = ConcurrencyLimitInterceptor.class.getName() + "." + limiter.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(limiter.getName(), retryAfterSeconds);
+        }
+        request.setAttribute(startAttribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+        request.removeAttribute(startAttribute);
+
+        int status = response.getStatus();
+        if (ex != null || status >= 500) {
+            limiter.onDropped();
+        } else if (status >= 400) {
+            // Client errors, including per-tenant throttling (429), say nothing about service capacity
+            limiter.onIgnore();
+        } else {
+            limiter.onSuccess(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sp.sp_user_service.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+
+public class ConcurrencyLimitMetrics implements MeterBinder {
+
+    private final List<AdaptiveConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimitMetrics(List<AdaptiveConcurrencyLimiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimiter limiter : limiters) {
+            Gauge.builder("user.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("limiter", limiter.getName())
+                    .description("Current adaptive concurrency limit")
+                    .register(registry);
+            Gauge.builder("user.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("limiter", limiter.getName())
+                    .description("Requests currently holding a permit")
+                    .register(registry);
+            FunctionCounter.builder("user.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                    .tag("limiter", limiter.getName())
+                    .description("Requests shed because the limit was reached")
+                    .register(registry);
+        }
+    }
+}
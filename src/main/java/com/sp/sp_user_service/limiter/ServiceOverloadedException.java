@@ -0,0 +1,16 @@
+package com.sp.sp_user_service.limiter;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final String limiterName;
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String limiterName, long retryAfterSeconds) {
+        super("Concurrency limit reached for " + limiterName);
+        this.limiterName = limiterName;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sp.sp_user_service.limiter;
+
+import com.sp.sp_user_service.config.TenantBulkheadProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many calls each tenant can run at once, so a noisy tenant is rejected once it uses its
+ * share instead of queueing everyone else behind it. Callers hold a permit only around their
+ * database work and hash passwords outside it.
+ * <p>
+ * This is not a connection quota: the permits of all tenants add up to more than the connection
+ * pool, so several busy tenants together can still wait on it. The endpoint concurrency limit
+ * bounds the total.
+ * <p>
+ * Configured tenants get their own permits. Any other tenant id is hashed onto one of a fixed
+ * number of stripes, so unlisted tenants rarely share a quota, while the set of semaphores stays
+ * fixed at startup and rotating made-up ids can claim at most every stripe once.
+ */
+public class TenantBulkhead {
+
+    private final long retryAfterSeconds;
+    private final Map<String, Semaphore> tenantPermits;
+    private final Semaphore[] unlistedStripes;
+
+    public TenantBulkhead(TenantBulkheadProperties properties) {
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        this.unlistedStripes = new Semaphore[properties.getUnlistedStripes()];
+        for (int i = 0; i < unlistedStripes.length; i++) {
+            unlistedStripes[i] = new Semaphore(properties.getMaxConcurrentCalls());
+        }
+
+        Map<String, Semaphore> permits = new HashMap<>();
+        for (String tenantId : properties.getTenants()) {
+            permits.put(tenantId, new Semaphore(properties.getMaxConcurrentCalls()));
+        }
+        properties.getTenantMaxConcurrentCalls()
+                .forEach((tenantId, maxConcurrentCalls) -> permits.put(tenantId, new Semaphore(maxConcurrentCalls)));
+        this.tenantPermits = Map.copyOf(permits);
+    }
+
+    public void execute(String tenantId, Runnable call) {
+        call(tenantId, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> T call(String tenantId, Supplier<T> call) {
+        Semaphore semaphore = permitsFor(tenantId);
+        if (!semaphore.tryAcquire()) {
+            throw new TenantThrottledException(tenantId, retryAfterSeconds);
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int availablePermits(String tenantId) {
+        return permitsFor(tenantId).availablePermits();
+    }
+
+    public Set<String> listedTenants() {
+        return tenantPermits.keySet();
+    }
+
+    private Semaphore permitsFor(String tenantId) {
+        Semaphore semaphore = tenantPermits.get(tenantId);
+        if (semaphore != null) {
+            return semaphore;
+        }
+        return unlistedStripes[Math.floorMod(tenantId.hashCode(), unlistedStripes.length)];
+    }
+}
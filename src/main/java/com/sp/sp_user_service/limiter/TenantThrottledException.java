@@ -0,0 +1,20 @@
+package com.sp.sp_user_service.limiter;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a single tenant has used up its bulkhead. This is a per-client throttle, not a sign
+ * that the service is overloaded, so it must not feed the endpoint concurrency limiters.
+ */
+@Getter
+public class TenantThrottledException extends RuntimeException {
+
+    private final String tenantId;
+    private final long retryAfterSeconds;
+
+    public TenantThrottledException(String tenantId, long retryAfterSeconds) {
+        super("Concurrency quota reached for tenant " + tenantId);
+        this.tenantId = tenantId;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
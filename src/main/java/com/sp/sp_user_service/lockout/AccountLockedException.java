@@ -0,0 +1,14 @@
+package com.sp.sp_user_service.lockout;
+
+import lombok.Getter;
+
+@Getter
+public class AccountLockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AccountLockedException(long retryAfterSeconds) {
+        super("Account is temporarily locked");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sp.sp_user_service.lockout;
+
+import com.sp.sp_user_service.repository.UserRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Default {@link LoginAttemptStore}, used when no other store bean is defined. Not a bean itself,
+ * so transactions come from {@link UserRepository}.
+ */
+public class JpaLoginAttemptStore implements LoginAttemptStore {
+
+    private final UserRepository userRepository;
+
+    public JpaLoginAttemptStore(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void saveLockout(Lockout lockout) {
+        userRepository.extendLockout(lockout.tenantId(), lockout.email(), lockout.lockedUntil());
+    }
+
+    @Override
+    public List<Lockout> findActiveLockouts(Instant now) {
+        return userRepository.findActiveLockouts(now);
+    }
+}
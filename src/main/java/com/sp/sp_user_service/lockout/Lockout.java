@@ -0,0 +1,10 @@
+package com.sp.sp_user_service.lockout;
+
+import java.time.Instant;
+
+/**
+ * A tenant-scoped login that is locked until {@code lockedUntil}, as shared through a
+ * {@link LoginAttemptStore}.
+ */
+public record Lockout(String tenantId, String email, Instant lockedUntil) {
+}
@@ -0,0 +1,22 @@
+package com.sp.sp_user_service.lockout;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Shared backend behind {@link LoginAttemptTracker}. Failure counts stay on each node; only
+ * lockouts are shared, written once when a login crosses the threshold and read back
+ * periodically so every node honours a lock raised on another one.
+ * <p>
+ * Define a bean of this type to replace the default {@link JpaLoginAttemptStore}.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Records the lockout, keeping any later {@code lockedUntil} already stored by another node.
+     */
+    void saveLockout(Lockout lockout);
+
+    List<Lockout> findActiveLockouts(Instant now);
+
+}
@@ -0,0 +1,175 @@
+package com.sp.sp_user_service.lockout;
+
+import com.sp.sp_user_service.config.LoginAttemptProperties;
+import com.sp.sp_user_service.model.Emails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts failed logins per tenant and email in memory, over a fixed window. Lockout decisions are
+ * made from this local state plus the last lockouts read from the {@link LoginAttemptStore}, so a
+ * burst of bad passwords never turns into one database write per attempt: the store is written
+ * only when a login crosses the failure threshold. Failure counts are per node and never
+ * persisted, which keeps nodes from overwriting each other's counts.
+ * <p>
+ * At most {@code maxTrackedLogins} windows are kept; beyond that the oldest are evicted first.
+ * An evicted lock has already been saved to the store and comes back with the next refresh.
+ */
+public class LoginAttemptTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptTracker.class);
+
+    private final LoginAttemptStore store;
+    private final int maxFailures;
+    private final Duration window;
+    private final Duration lockDuration;
+    private final int maxTrackedLogins;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, AttemptWindow> attempts = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<AttemptWindow> creationOrder = new ConcurrentLinkedQueue<>();
+    private volatile Map<String, Instant> sharedLockouts = Map.of();
+
+    public LoginAttemptTracker(LoginAttemptProperties properties, LoginAttemptStore store, Clock clock) {
+        this.store = store;
+        this.maxFailures = properties.getMaxFailures();
+        this.window = properties.getWindow();
+        this.lockDuration = properties.getLockDuration();
+        this.maxTrackedLogins = properties.getMaxTrackedLogins();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns how long the login stays locked, or empty when it is not locked.
+     */
+    public Optional<Duration> lockRemaining(String tenantId, String email) {
+        String key = key(tenantId, Emails.normalize(email));
+        Instant now = clock.instant();
+
+        Instant lockedUntil = null;
+        AttemptWindow local = attempts.get(key);
+        if (local != null) {
+            lockedUntil = local.lockedUntil;
+        }
+        Instant shared = sharedLockouts.get(key);
+        if (shared != null && (lockedUntil == null || shared.isAfter(lockedUntil))) {
+            lockedUntil = shared;
+        }
+
+        if (lockedUntil == null || !lockedUntil.isAfter(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.between(now, lockedUntil));
+    }
+
+    public void recordFailure(String tenantId, String email) {
+        String normalizedEmail = Emails.normalize(email);
+        Instant now = clock.instant();
+        Lockout[] lockout = new Lockout[1];
+        AttemptWindow[] created = new AttemptWindow[1];
+
+        attempts.compute(key(tenantId, normalizedEmail), (key, current) -> {
+            AttemptWindow attempt = current;
+            if (attempt == null || attempt.isExpired(now)) {
+                attempt = new AttemptWindow(key, now);
+                created[0] = attempt;
+            }
+            attempt.failures++;
+            if (attempt.failures >= maxFailures && !attempt.isLocked(now)) {
+                attempt.lockedUntil = now.plus(lockDuration);
+                lockout[0] = new Lockout(tenantId, normalizedEmail, attempt.lockedUntil);
+            }
+            return attempt;
+        });
+
+        if (created[0] != null) {
+            creationOrder.add(created[0]);
+            evictOldest();
+        }
+        if (lockout[0] != null) {
+            try {
+                store.saveLockout(lockout[0]);
+            } catch (RuntimeException e) {
+                // The lock is still enforced on this node; other nodes see it only once a later crossing is saved
+                logger.warn("Failed to save lockout: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Forgets this node's failures for the login. Nothing is written to the store, so a lock
+     * raised on another node in the meantime stays in place.
+     */
+    public void recordSuccess(String tenantId, String email) {
+        attempts.remove(key(tenantId, Emails.normalize(email)));
+    }
+
+    /**
+     * Drops idle entries and refreshes the lockouts raised by other nodes.
+     */
+    @Scheduled(fixedDelayString = "${user-service.login-attempts.refresh-interval:PT10S}")
+    public void refresh() {
+        Instant now = clock.instant();
+        attempts.values().removeIf(attempt -> attempt.isExpired(now));
+        creationOrder.removeIf(attempt -> attempts.get(attempt.key) != attempt);
+
+        try {
+            Map<String, Instant> lockouts = new HashMap<>();
+            for (Lockout lockout : store.findActiveLockouts(now)) {
+                lockouts.merge(key(lockout.tenantId(), Emails.normalize(lockout.email())), lockout.lockedUntil(),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+            sharedLockouts = lockouts;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh shared lockouts, keeping the previous ones: {}", e.getMessage());
+        }
+    }
+
+    private void evictOldest() {
+        while (attempts.size() > maxTrackedLogins) {
+            AttemptWindow oldest = creationOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            // No-op when the window was already replaced or removed
+            attempts.remove(oldest.key, oldest);
+        }
+    }
+
+    private static String key(String tenantId, String normalizedEmail) {
+        return tenantId + '\n' + normalizedEmail;
+    }
+
+    private final class AttemptWindow {
+
+        private final String key;
+        private final Instant windowStart;
+        private int failures;
+        private volatile Instant lockedUntil;
+
+        private AttemptWindow(String key, Instant windowStart) {
+            this.key = key;
+            this.windowStart = windowStart;
+        }
+
+        private boolean isLocked(Instant now) {
+            Instant until = lockedUntil;
+            return until != null && until.isAfter(now);
+        }
+
+        private boolean isExpired(Instant now) {
+            return !isLocked(now) && !windowStart.plus(window).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sp.sp_user_service.logging;
+
+import com.sp.sp_user_service.model.Emails;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * Turns user identifiers into short keyed hashes (HMAC-SHA256) so log lines can still be
+ * correlated without writing emails or user ids in clear text. Without the key, a list of known
+ * emails cannot be hashed and matched against the logs.
+ */
+public class LogIdentifiers {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int HASH_BYTES = 8;
+
+    private final SecretKeySpec key;
+
+    public LogIdentifiers(byte[] key) {
+        this.key = new SecretKeySpec(key, ALGORITHM);
+    }
+
+    public String hashEmail(String email) {
+        return email == null ? null : hash(Emails.normalize(email));
+    }
+
+    public String hash(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, HASH_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
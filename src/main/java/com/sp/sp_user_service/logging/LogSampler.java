@@ -0,0 +1,65 @@
+package com.sp.sp_user_service.logging;
+
+import com.sp.sp_user_service.config.LoggingProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether an occurrence of a log event gets written: one in every {@code sampleEvery}
+ * occurrences is kept, and at most {@code maxPerSecond} are written per second. Skipped
+ * occurrences are counted so the next written line can report how many were left out.
+ */
+public class LogSampler {
+
+    private final int sampleEvery;
+    private final int maxPerSecond;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong occurrences = new AtomicLong();
+    private final AtomicLong currentSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger writtenThisSecond = new AtomicInteger();
+    private final LongAdder skipped = new LongAdder();
+
+    public LogSampler(LoggingProperties.Event event) {
+        this(event.getSampleEvery(), event.getMaxPerSecond());
+    }
+
+    public LogSampler(int sampleEvery, int maxPerSecond) {
+        this(sampleEvery, maxPerSecond, System::nanoTime);
+    }
+
+    LogSampler(int sampleEvery, int maxPerSecond, LongSupplier nanoClock) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.maxPerSecond = maxPerSecond;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean sample() {
+        if (occurrences.getAndIncrement() % sampleEvery != 0) {
+            skipped.increment();
+            return false;
+        }
+
+        long second = TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong());
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            writtenThisSecond.set(0);
+        }
+        if (writtenThisSecond.incrementAndGet() > maxPerSecond) {
+            skipped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of occurrences skipped since the last call.
+     */
+    public long drainSkipped() {
+        return skipped.sumThenReset();
+    }
+}
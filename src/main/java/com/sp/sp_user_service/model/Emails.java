@@ -0,0 +1,17 @@
+package com.sp.sp_user_service.model;
+
+import java.util.Locale;
+
+/**
+ * Canonical form of an email. Stored users, lookups, lockout keys and log hashes must all use it,
+ * or the same address would be seen as different users.
+ */
+public final class Emails {
+
+    private Emails() {
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
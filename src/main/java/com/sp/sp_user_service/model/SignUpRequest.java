@@ -2,6 +2,7 @@ package com.sp.sp_user_service.model;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class SignUpRequest {
 
+    @NotBlank(message = "Tenant id is required")
+    @Pattern(regexp = "^[A-Za-z0-9_-]{1,64}$", message = "Tenant id must be 1 to 64 letters, digits, '-' or '_'")
+    private String tenantId;
+
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     private String email;
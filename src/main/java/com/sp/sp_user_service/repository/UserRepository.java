@@ -0,0 +1,38 @@
+package com.sp.sp_user_service.repository;
+
+import com.sp.sp_user_service.lockout.Lockout;
+import com.sp.sp_user_service.model.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    Optional<User> findByTenantIdAndEmail(String tenantId, String email);
+
+    boolean existsByTenantIdAndEmail(String tenantId, String email);
+
+    /**
+     * Selects only the lock columns, since every node polls this on each refresh.
+     */
+    @Query("select new com.sp.sp_user_service.lockout.Lockout(u.tenantId, u.email, u.lockedUntil) "
+            + "from User u where u.lockedUntil > :now")
+    List<Lockout> findActiveLockouts(@Param("now") Instant now);
+
+    /**
+     * Sets {@code lockedUntil} unless a later lock is already stored, so concurrent writes from
+     * several nodes can only extend a lock, never shorten it.
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.lockedUntil = case when u.lockedUntil is not null and u.lockedUntil > :lockedUntil "
+            + "then u.lockedUntil else :lockedUntil end where u.tenantId = :tenantId and u.email = :email")
+    int extendLockout(@Param("tenantId") String tenantId, @Param("email") String email, @Param("lockedUntil") Instant lockedUntil);
+
+}
@@ -1,31 +1,136 @@
 package com.sp.sp_user_service.service;
 
+import com.sp.sp_user_service.config.LoggingProperties;
+import com.sp.sp_user_service.limiter.TenantBulkhead;
+import com.sp.sp_user_service.lockout.AccountLockedException;
+import com.sp.sp_user_service.lockout.LoginAttemptTracker;
+import com.sp.sp_user_service.logging.LogIdentifiers;
+import com.sp.sp_user_service.logging.LogSampler;
+import com.sp.sp_user_service.model.Emails;
 import com.sp.sp_user_service.model.LoginRequest;
 import com.sp.sp_user_service.model.SignUpRequest;
+import com.sp.sp_user_service.model.User;
+import com.sp.sp_user_service.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class AuthServiceImpl implements AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TenantBulkhead tenantBulkhead;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final LogIdentifiers logIdentifiers;
+    private final LogSampler signUpLogSampler;
+    private final LogSampler loginLogSampler;
+    private final LogSampler logoutLogSampler;
+
+    // Checked against when the email is unknown, so both cases take as long as a real password check
+    private final String unknownUserPasswordHash;
+
+    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, TenantBulkhead tenantBulkhead,
+                           LoginAttemptTracker loginAttemptTracker, LogIdentifiers logIdentifiers,
+                           LoggingProperties loggingProperties) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tenantBulkhead = tenantBulkhead;
+        this.loginAttemptTracker = loginAttemptTracker;
+        this.logIdentifiers = logIdentifiers;
+        this.signUpLogSampler = new LogSampler(loggingProperties.getSampling().getSignup());
+        this.loginLogSampler = new LogSampler(loggingProperties.getSampling().getLogin());
+        this.logoutLogSampler = new LogSampler(loggingProperties.getSampling().getLogout());
+        this.unknownUserPasswordHash = passwordEncoder.encode("unknown-user-password");
+    }
+
     @Override
     public void signUpUser(SignUpRequest signUpRequest) {
-        logger.info("Processing signup for user with email: {}", signUpRequest.getEmail());
-        // TODO: Implement actual user registration logic with User entity and UserRepository
+        // BCrypt is CPU-bound, so hash before taking a tenant permit
+        String passwordHash = passwordEncoder.encode(signUpRequest.getPassword());
+
+        tenantBulkhead.execute(signUpRequest.getTenantId(), () -> {
+            if (signUpLogSampler.sample()) {
+                logger.atInfo()
+                        .addKeyValue("event", "user.signup")
+                        .addKeyValue("tenantId", signUpRequest.getTenantId())
+                        .addKeyValue("emailHash", logIdentifiers.hashEmail(signUpRequest.getEmail()))
+                        .addKeyValue("skipped", signUpLogSampler.drainSkipped())
+                        .log("Processing signup");
+            }
+
+            String email = Emails.normalize(signUpRequest.getEmail());
+            if (userRepository.existsByTenantIdAndEmail(signUpRequest.getTenantId(), email)) {
+                throw new UserAlreadyExistsException();
+            }
+
+            User user = new User();
+            user.setTenantId(signUpRequest.getTenantId());
+            user.setEmail(email);
+            user.setFirstName(signUpRequest.getFirstName());
+            user.setLastName(signUpRequest.getLastName());
+            user.setDob(signUpRequest.getDob());
+            user.setPasswordHash(passwordHash);
+            try {
+                userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                // Lost a race with a concurrent signup for the same email
+                throw new UserAlreadyExistsException();
+            }
+        });
     }
 
     @Override
     public void loginUser(LoginRequest loginRequest) {
-        logger.info("Processing login for user with email: {}", loginRequest.getEmail());
-        // TODO: Implement actual login logic with authentication
+        loginAttemptTracker.lockRemaining(loginRequest.getTenantId(), loginRequest.getEmail())
+                .ifPresent(remaining -> {
+                    throw new AccountLockedException(Math.max(1, remaining.toSeconds()));
+                });
+
+        Optional<User> user = tenantBulkhead.call(loginRequest.getTenantId(), () -> {
+            if (loginLogSampler.sample()) {
+                logger.atInfo()
+                        .addKeyValue("event", "user.login")
+                        .addKeyValue("tenantId", loginRequest.getTenantId())
+                        .addKeyValue("emailHash", logIdentifiers.hashEmail(loginRequest.getEmail()))
+                        .addKeyValue("skipped", loginLogSampler.drainSkipped())
+                        .log("Processing login");
+            }
+            return userRepository.findByTenantIdAndEmail(loginRequest.getTenantId(), Emails.normalize(loginRequest.getEmail()));
+        });
+
+        // The password check runs after the permit is released, like the hash on signup
+        try {
+            authenticate(loginRequest, user);
+        } catch (InvalidCredentialsException e) {
+            loginAttemptTracker.recordFailure(loginRequest.getTenantId(), loginRequest.getEmail());
+            throw e;
+        }
+        loginAttemptTracker.recordSuccess(loginRequest.getTenantId(), loginRequest.getEmail());
+    }
+
+    private void authenticate(LoginRequest loginRequest, Optional<User> user) {
+        String passwordHash = user.map(User::getPasswordHash).orElse(unknownUserPasswordHash);
+        if (!passwordEncoder.matches(loginRequest.getPassword(), passwordHash) || user.isEmpty()) {
+            throw new InvalidCredentialsException();
+        }
     }
 
     @Override
     public void logoutUser(String userId) {
-        logger.info("Processing logout for userId: {}", userId);
+        if (logoutLogSampler.sample()) {
+            logger.atInfo()
+                    .addKeyValue("event", "user.logout")
+                    .addKeyValue("userIdHash", logIdentifiers.hash(userId))
+                    .addKeyValue("skipped", logoutLogSampler.drainSkipped())
+                    .log("Processing logout");
+        }
         // TODO: Implement actual logout logic
     }
 }
@@ -0,0 +1,8 @@
+package com.sp.sp_user_service.service;
+
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException() {
+        super("Invalid email or password");
+    }
+}
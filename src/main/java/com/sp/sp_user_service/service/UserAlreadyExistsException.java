@@ -0,0 +1,8 @@
+package com.sp.sp_user_service.service;
+
+public class UserAlreadyExistsException extends RuntimeException {
+
+    public UserAlreadyExistsException() {
+        super("User already exists");
+    }
+}
@@ -1,20 +1,29 @@
 package com.sp.sp_user_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sp.sp_user_service.config.LoggingConfig;
+import com.sp.sp_user_service.limiter.AdaptiveConcurrencyLimiter;
+import com.sp.sp_user_service.limiter.TenantThrottledException;
+import com.sp.sp_user_service.lockout.AccountLockedException;
 import com.sp.sp_user_service.model.LoginRequest;
 import com.sp.sp_user_service.model.SignUpRequest;
 import com.sp.sp_user_service.service.AuthService;
+import com.sp.sp_user_service.service.InvalidCredentialsException;
+import com.sp.sp_user_service.service.UserAlreadyExistsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -23,6 +32,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AuthController.class)
+@Import(LoggingConfig.class)
 @DisplayName("AuthController Unit Tests")
 class AuthControllerTest {
 
@@ -32,6 +42,14 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier("signUpConcurrencyLimiter")
+    private AdaptiveConcurrencyLimiter signUpConcurrencyLimiter;
+
+    @Autowired
+    @Qualifier("loginConcurrencyLimiter")
+    private AdaptiveConcurrencyLimiter loginConcurrencyLimiter;
+
     @MockitoBean
     private AuthService authService;
 
@@ -158,6 +176,44 @@ class AuthControllerTest {
         then(authService).should(never()).signUpUser(any(SignUpRequest.class));
     }
 
+    @Test
+    @DisplayName("Should return 400 when signup request has missing tenantId")
+    void shouldReturnBadRequestWhenSignUpHasMissingTenantId() throws Exception {
+        // Given
+        SignUpRequest invalidRequest = createValidSignUpRequest();
+        invalidRequest.setTenantId(null);
+
+        // When & Then
+        mockMvc.perform(post("/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").exists());
+
+        // Verify service was NOT called
+        then(authService).should(never()).signUpUser(any(SignUpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when login request has invalid tenantId")
+    void shouldReturnBadRequestWhenLoginHasInvalidTenantId() throws Exception {
+        // Given
+        LoginRequest invalidRequest = createValidLoginRequest();
+        invalidRequest.setTenantId("store 1; drop");
+
+        // When & Then
+        mockMvc.perform(post("/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").exists());
+
+        // Verify service was NOT called
+        then(authService).should(never()).loginUser(any(LoginRequest.class));
+    }
+
     @Test
     @DisplayName("Should successfully login user with valid credentials")
     void shouldLoginUserWithValidCredentials() throws Exception {
@@ -182,6 +238,7 @@ class AuthControllerTest {
     void shouldReturnBadRequestWhenLoginHasInvalidEmail() throws Exception {
         // Given
         LoginRequest invalidRequest = new LoginRequest();
+        invalidRequest.setTenantId("store-1");
         invalidRequest.setEmail("invalid-email");
         invalidRequest.setPassword("SecurePass123");
 
@@ -202,6 +259,7 @@ class AuthControllerTest {
     void shouldReturnBadRequestWhenLoginHasMissingEmail() throws Exception {
         // Given
         LoginRequest invalidRequest = new LoginRequest();
+        invalidRequest.setTenantId("store-1");
         invalidRequest.setEmail(null);
         invalidRequest.setPassword("SecurePass123");
 
@@ -222,6 +280,7 @@ class AuthControllerTest {
     void shouldReturnBadRequestWhenLoginHasMissingPassword() throws Exception {
         // Given
         LoginRequest invalidRequest = new LoginRequest();
+        invalidRequest.setTenantId("store-1");
         invalidRequest.setEmail("test@example.com");
         invalidRequest.setPassword(null);
 
@@ -310,10 +369,107 @@ class AuthControllerTest {
         then(authService).should(times(1)).loginUser(any(LoginRequest.class));
     }
 
+    @Test
+    @DisplayName("Should return 409 when signing up an existing user")
+    void shouldReturnConflictWhenUserAlreadyExists() throws Exception {
+        // Given
+        doThrow(new UserAlreadyExistsException()).when(authService).signUpUser(any(SignUpRequest.class));
+
+        // When & Then
+        mockMvc.perform(post("/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validSignUpRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("User already exists"));
+    }
+
+    @Test
+    @DisplayName("Should return 401 when login credentials are invalid")
+    void shouldReturnUnauthorizedWhenCredentialsInvalid() throws Exception {
+        // Given
+        doThrow(new InvalidCredentialsException()).when(authService).loginUser(any(LoginRequest.class));
+
+        // When & Then
+        mockMvc.perform(post("/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value(401))
+                .andExpect(jsonPath("$.message").value("Invalid email or password"));
+    }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when account is locked")
+    void shouldReturnTooManyRequestsWhenAccountLocked() throws Exception {
+        // Given
+        doThrow(new AccountLockedException(60)).when(authService).loginUser(any(LoginRequest.class));
+
+        // When & Then
+        mockMvc.perform(post("/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Should return 429 without shrinking the endpoint limit when a tenant is throttled")
+    void shouldThrottleTenantWithoutShrinkingEndpointLimit() throws Exception {
+        // Given
+        doThrow(new TenantThrottledException("store-1", 1)).when(authService).loginUser(any(LoginRequest.class));
+        int limitBefore = loginConcurrencyLimiter.getLimit();
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/user/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validLoginRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.status").value(429));
+        }
+
+        // Verify the shared login limit was not backed off
+        assertEquals(limitBefore, loginConcurrencyLimiter.getLimit());
+        assertEquals(0, loginConcurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when signup concurrency limit is reached")
+    void shouldShedSignUpWhenConcurrencyLimitReached() throws Exception {
+        // Given
+        int acquired = 0;
+        while (signUpConcurrencyLimiter.tryAcquire()) {
+            acquired++;
+        }
+
+        try {
+            // When & Then
+            mockMvc.perform(post("/user/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validSignUpRequest)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.message").exists());
+
+            // Verify service was NOT called
+            then(authService).should(never()).signUpUser(any(SignUpRequest.class));
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                signUpConcurrencyLimiter.onIgnore();
+            }
+        }
+    }
+
     // Helper methods to create valid test data
 
     private SignUpRequest createValidSignUpRequest() {
         SignUpRequest request = new SignUpRequest();
+        request.setTenantId("store-1");
         request.setEmail("test@example.com");
         request.setFirstName("John");
         request.setLastName("Doe");
@@ -324,6 +480,7 @@ class AuthControllerTest {
 
     private LoginRequest createValidLoginRequest() {
         LoginRequest request = new LoginRequest();
+        request.setTenantId("store-1");
         request.setEmail("test@example.com");
         request.setPassword("SecurePass123");
         return request;
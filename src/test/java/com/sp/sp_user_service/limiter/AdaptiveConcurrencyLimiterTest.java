@@ -0,0 +1,114 @@
+package com.sp.sp_user_service.limiter;
+
+import com.sp.sp_user_service.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private ConcurrencyLimitProperties.Limit limitProperties;
+
+    @BeforeEach
+    void setUp() {
+        limitProperties = new ConcurrencyLimitProperties.Limit();
+        limitProperties.setInitialLimit(10);
+        limitProperties.setMinLimit(2);
+        limitProperties.setMaxLimit(50);
+    }
+
+    @Test
+    @DisplayName("Should reject requests once the limit is reached")
+    void shouldRejectWhenLimitReached() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", limitProperties);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // Then
+        assertFalse(limiter.tryAcquire());
+        assertEquals(10, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Should admit a new request after a permit is released")
+    void shouldAdmitAfterRelease() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", limitProperties);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.onIgnore();
+
+        // Then
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises under load")
+    void shouldShrinkLimitWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", limitProperties);
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(10), 20);
+        int limitBeforeSlowdown = limiter.getLimit();
+
+        // When
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(200), 20);
+
+        // Then
+        assertTrue(limiter.getLimit() < limitBeforeSlowdown);
+        assertTrue(limiter.getLimit() >= limitProperties.getMinLimit());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays stable under load")
+    void shouldGrowLimitWhenLatencyIsStable() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", limitProperties);
+
+        // When
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(10), 20);
+
+        // Then
+        assertTrue(limiter.getLimit() > limitProperties.getInitialLimit());
+        assertTrue(limiter.getLimit() <= limitProperties.getMaxLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off the limit when requests fail")
+    void shouldBackOffOnDrop() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", limitProperties);
+        limiter.tryAcquire();
+
+        // When
+        limiter.onDropped();
+
+        // Then
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+}
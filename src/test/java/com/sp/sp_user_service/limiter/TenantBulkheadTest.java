@@ -0,0 +1,105 @@
+package com.sp.sp_user_service.limiter;
+
+import com.sp.sp_user_service.config.TenantBulkheadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TenantBulkhead Unit Tests")
+class TenantBulkheadTest {
+
+    private TenantBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        TenantBulkheadProperties properties = new TenantBulkheadProperties();
+        properties.setTenants(Set.of("store-1", "store-2"));
+        properties.setMaxConcurrentCalls(1);
+        properties.setUnlistedStripes(64);
+        properties.setTenantMaxConcurrentCalls(Map.of("big-store", 2));
+        bulkhead = new TenantBulkhead(properties);
+    }
+
+    @Test
+    @DisplayName("Should reject a tenant that exceeds its quota")
+    void shouldRejectTenantOverQuota() {
+        // When & Then
+        bulkhead.execute("store-1", () ->
+                assertThrows(TenantThrottledException.class, () -> bulkhead.execute("store-1", () -> { })));
+    }
+
+    @Test
+    @DisplayName("Should not throttle other tenants while one tenant is saturated")
+    void shouldIsolateTenants() {
+        // When & Then
+        bulkhead.execute("store-1", () ->
+                assertDoesNotThrow(() -> bulkhead.execute("store-2", () -> { })));
+    }
+
+    @Test
+    @DisplayName("Should apply per-tenant quota overrides")
+    void shouldApplyTenantOverride() {
+        // When & Then
+        bulkhead.execute("big-store", () ->
+                assertDoesNotThrow(() -> bulkhead.execute("big-store", () -> { })));
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the call fails")
+    void shouldReleasePermitOnFailure() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> bulkhead.execute("store-1", () -> {
+            throw new IllegalStateException("Database error");
+        }));
+
+        // When & Then
+        assertEquals(1, bulkhead.availablePermits("store-1"));
+    }
+
+    @Test
+    @DisplayName("Should give unlisted tenant ids their own quota")
+    void shouldIsolateUnlistedTenants() {
+        // When & Then - the two ids hash onto different stripes
+        bulkhead.execute("made-up-1", () -> {
+            assertThrows(TenantThrottledException.class, () -> bulkhead.execute("made-up-1", () -> { }));
+            assertDoesNotThrow(() -> bulkhead.execute("made-up-2", () -> { }));
+        });
+    }
+
+    @Test
+    @DisplayName("Should make unlisted tenant ids on the same stripe share a quota")
+    void shouldShareQuotaWithinStripe() {
+        // Given
+        TenantBulkheadProperties properties = new TenantBulkheadProperties();
+        properties.setMaxConcurrentCalls(1);
+        properties.setUnlistedStripes(1);
+        TenantBulkhead singleStripe = new TenantBulkhead(properties);
+
+        // When & Then
+        singleStripe.execute("made-up-1", () ->
+                assertThrows(TenantThrottledException.class, () -> singleStripe.execute("made-up-2", () -> { })));
+    }
+
+    @Test
+    @DisplayName("Should not throttle listed tenants while unlisted ids are saturated")
+    void shouldIsolateListedTenantsFromUnlisted() {
+        // When & Then
+        bulkhead.execute("made-up-1", () ->
+                assertDoesNotThrow(() -> bulkhead.execute("store-1", () -> { })));
+    }
+
+    @Test
+    @DisplayName("Should keep a fixed set of bulkheads")
+    void shouldNotCreateBulkheadsForUnlistedTenants() {
+        // When
+        bulkhead.execute("made-up-1", () -> { });
+
+        // Then
+        assertEquals(Set.of("store-1", "store-2", "big-store"), bulkhead.listedTenants());
+    }
+}
@@ -0,0 +1,278 @@
+package com.sp.sp_user_service.lockout;
+
+import com.sp.sp_user_service.config.LoginAttemptProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginAttemptTracker Unit Tests")
+class LoginAttemptTrackerTest {
+
+    private static final String TENANT = "store-1";
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private LoginAttemptStore store;
+
+    private LoginAttemptProperties properties;
+    private MutableClock clock;
+    private LoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginAttemptProperties();
+        properties.setMaxFailures(3);
+        properties.setWindow(Duration.ofMinutes(10));
+        properties.setLockDuration(Duration.ofMinutes(15));
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        tracker = new LoginAttemptTracker(properties, store, clock);
+    }
+
+    @Test
+    @DisplayName("Should not write to the store for failures below the threshold")
+    void shouldNotWriteBelowThreshold() {
+        // When
+        tracker.recordFailure(TENANT, EMAIL);
+        tracker.recordFailure(TENANT, EMAIL);
+
+        // Then
+        assertTrue(tracker.lockRemaining(TENANT, EMAIL).isEmpty());
+        then(store).should(never()).saveLockout(any());
+    }
+
+    @Test
+    @DisplayName("Should lock and write once when the threshold is crossed")
+    void shouldLockOnThresholdCrossing() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure(TENANT, EMAIL);
+        }
+
+        // Then
+        assertEquals(Duration.ofMinutes(15), tracker.lockRemaining(TENANT, "Test@Example.com").orElseThrow());
+        ArgumentCaptor<Lockout> captor = ArgumentCaptor.forClass(Lockout.class);
+        then(store).should(times(1)).saveLockout(captor.capture());
+        assertEquals(clock.instant().plus(Duration.ofMinutes(15)), captor.getValue().lockedUntil());
+    }
+
+    @Test
+    @DisplayName("Should not lock other tenants with the same email")
+    void shouldScopeLockToTenant() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure(TENANT, EMAIL);
+        }
+
+        // Then
+        assertTrue(tracker.lockRemaining("store-2", EMAIL).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget failures once the window has passed")
+    void shouldResetAfterWindow() {
+        // Given
+        tracker.recordFailure(TENANT, EMAIL);
+        tracker.recordFailure(TENANT, EMAIL);
+
+        // When
+        clock.advance(Duration.ofMinutes(11));
+        tracker.recordFailure(TENANT, EMAIL);
+
+        // Then
+        assertTrue(tracker.lockRemaining(TENANT, EMAIL).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should unlock once the lock duration has passed")
+    void shouldUnlockAfterLockDuration() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure(TENANT, EMAIL);
+        }
+
+        // When
+        clock.advance(Duration.ofMinutes(16));
+
+        // Then
+        assertTrue(tracker.lockRemaining(TENANT, EMAIL).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not write to the store on success or refresh")
+    void shouldOnlyReadOnRefresh() {
+        // Given
+        tracker.recordFailure(TENANT, EMAIL);
+        tracker.recordFailure(TENANT, "other@example.com");
+        tracker.recordSuccess(TENANT, EMAIL);
+        given(store.findActiveLockouts(any(Instant.class))).willReturn(List.of());
+
+        // When
+        tracker.refresh();
+
+        // Then
+        then(store).should(never()).saveLockout(any());
+    }
+
+    @Test
+    @DisplayName("Should honour lockouts raised on other nodes after a refresh")
+    void shouldHonourSharedLockouts() {
+        // Given
+        Instant lockedUntil = clock.instant().plus(Duration.ofMinutes(5));
+        given(store.findActiveLockouts(any(Instant.class)))
+                .willReturn(List.of(new Lockout(TENANT, EMAIL, lockedUntil)));
+
+        // When
+        tracker.refresh();
+
+        // Then
+        assertEquals(Duration.ofMinutes(5), tracker.lockRemaining(TENANT, EMAIL).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should keep enforcing the lock locally when the store is unavailable")
+    void shouldLockLocallyWhenStoreFails() {
+        // Given
+        willThrow(new IllegalStateException("Database error")).given(store).saveLockout(any());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> tracker.recordFailure(TENANT, EMAIL));
+        }
+
+        // Then
+        assertTrue(tracker.lockRemaining(TENANT, EMAIL).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest windows once the tracked login cap is reached")
+    void shouldEvictOldestWindowsOverCap() {
+        // Given
+        properties.setMaxTrackedLogins(2);
+        tracker = new LoginAttemptTracker(properties, store, clock);
+        tracker.recordFailure(TENANT, EMAIL);
+        tracker.recordFailure(TENANT, EMAIL);
+
+        // When
+        tracker.recordFailure(TENANT, "second@example.com");
+        tracker.recordFailure(TENANT, "third@example.com");
+        tracker.recordFailure(TENANT, EMAIL);
+
+        // Then - the first two failures were evicted, so the third one does not lock
+        assertTrue(tracker.lockRemaining(TENANT, EMAIL).isEmpty());
+        then(store).should(never()).saveLockout(any());
+    }
+
+    @Test
+    @DisplayName("Should keep a lock raised on one node while another node sees failures and successes")
+    void shouldShareLockAcrossNodes() {
+        // Given
+        SharedStore sharedStore = new SharedStore();
+        LoginAttemptTracker nodeA = new LoginAttemptTracker(properties, sharedStore, clock);
+        LoginAttemptTracker nodeB = new LoginAttemptTracker(properties, sharedStore, clock);
+        nodeB.recordFailure(TENANT, EMAIL);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            nodeA.recordFailure(TENANT, EMAIL);
+        }
+        nodeB.recordSuccess(TENANT, EMAIL);
+        nodeB.recordFailure(TENANT, EMAIL);
+        nodeB.refresh();
+        nodeA.refresh();
+
+        // Then
+        assertEquals(Duration.ofMinutes(15), nodeA.lockRemaining(TENANT, EMAIL).orElseThrow());
+        assertEquals(Duration.ofMinutes(15), nodeB.lockRemaining(TENANT, EMAIL).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should not shorten a later lock when another node crosses the threshold earlier")
+    void shouldKeepLatestLockAcrossNodes() {
+        // Given
+        SharedStore sharedStore = new SharedStore();
+        LoginAttemptTracker nodeA = new LoginAttemptTracker(properties, sharedStore, clock);
+        LoginAttemptTracker nodeB = new LoginAttemptTracker(properties, sharedStore, clock);
+        for (int i = 0; i < 3; i++) {
+            nodeB.recordFailure(TENANT, EMAIL);
+        }
+
+        // When
+        clock.advance(Duration.ofMinutes(5));
+        for (int i = 0; i < 3; i++) {
+            nodeA.recordFailure(TENANT, EMAIL);
+        }
+        nodeB.refresh();
+
+        // Then
+        assertEquals(Duration.ofMinutes(15), nodeB.lockRemaining(TENANT, EMAIL).orElseThrow());
+    }
+
+    /**
+     * In-memory store with the same merge rule as {@code UserRepository.extendLockout}.
+     */
+    private static final class SharedStore implements LoginAttemptStore {
+
+        private final Map<String, Lockout> lockouts = new ConcurrentHashMap<>();
+
+        @Override
+        public void saveLockout(Lockout lockout) {
+            lockouts.merge(lockout.tenantId() + '\n' + lockout.email(), lockout,
+                    (stored, update) -> stored.lockedUntil().isAfter(update.lockedUntil()) ? stored : update);
+        }
+
+        @Override
+        public List<Lockout> findActiveLockouts(Instant now) {
+            return lockouts.values().stream().filter(lockout -> lockout.lockedUntil().isAfter(now)).toList();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
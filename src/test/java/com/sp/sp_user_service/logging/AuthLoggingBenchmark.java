@@ -0,0 +1,175 @@
+package com.sp.sp_user_service.logging;
+
+import com.sp.sp_user_service.config.LoggingProperties;
+import com.sp.sp_user_service.config.LoginAttemptProperties;
+import com.sp.sp_user_service.config.TenantBulkheadProperties;
+import com.sp.sp_user_service.limiter.TenantBulkhead;
+import com.sp.sp_user_service.lockout.LoginAttemptStore;
+import com.sp.sp_user_service.lockout.LoginAttemptTracker;
+import com.sp.sp_user_service.lockout.Lockout;
+import com.sp.sp_user_service.model.LoginRequest;
+import com.sp.sp_user_service.model.SignUpRequest;
+import com.sp.sp_user_service.model.User;
+import com.sp.sp_user_service.repository.UserRepository;
+import com.sp.sp_user_service.service.AuthServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Per-request logging cost of the auth path, measured with JMH.
+ * <ul>
+ *     <li>{@code before}: Spring Boot's default synchronous console config and the log statement
+ *     {@code AuthServiceImpl} used to run on every request (raw email, INFO).</li>
+ *     <li>{@code after}: the shipped {@code logback-spring.xml} and the real {@code AuthServiceImpl}.</li>
+ *     <li>{@code after-unsampled}: the shipped config with the service's structured log statement
+ *     written on every request, i.e. the cost of an event that is not sampled out.</li>
+ *     <li>{@code after-logging-off}: the real service with its logger turned off, so
+ *     {@code after} minus this is the logging share of a request.</li>
+ * </ul>
+ * The repository and password encoder are stubbed so only the service's own work is measured.
+ * Console output goes to a temporary file so the appenders do real writes. Run with:
+ * <pre>
+ * ./mvnw test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main AuthLoggingBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AuthLoggingBenchmark {
+
+    private static final Logger serviceLogger = LoggerFactory.getLogger(AuthServiceImpl.class);
+
+    @Param({"before", "after", "after-unsampled", "after-logging-off"})
+    public String variant;
+
+    private LogIdentifiers logIdentifiers;
+    private LoggingSystem loggingSystem;
+    private PrintStream console;
+    private AuthServiceImpl authService;
+    private SignUpRequest signUpRequest;
+    private LoginRequest loginRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path output = Files.createTempFile("auth-logging-benchmark", ".log");
+        console = new PrintStream(new FileOutputStream(output.toFile()), false, StandardCharsets.UTF_8);
+        System.setOut(console);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("spring.application.name", "sp-user-service")));
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        String config = "before".equals(variant) ? "classpath:logback-baseline.xml" : "classpath:logback-spring.xml";
+        loggingSystem.initialize(new LoggingInitializationContext(environment), config, null);
+        if ("after-logging-off".equals(variant)) {
+            loggingSystem.setLogLevel(AuthServiceImpl.class.getName(), LogLevel.OFF);
+        }
+
+        LoginAttemptTracker tracker = new LoginAttemptTracker(new LoginAttemptProperties(), new NoOpLoginAttemptStore(), Clock.systemUTC());
+        logIdentifiers = new LogIdentifiers("benchmark-key".getBytes(StandardCharsets.UTF_8));
+        User user = new User();
+        user.setPasswordHash("hashed");
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByTenantIdAndEmail(anyString(), anyString())).thenReturn(Optional.of(user));
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class, withSettings().stubOnly());
+        when(passwordEncoder.matches(any(), any())).thenReturn(true);
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, new TenantBulkhead(new TenantBulkheadProperties()),
+                tracker, logIdentifiers, new LoggingProperties());
+
+        signUpRequest = new SignUpRequest("store-1", "test@example.com", "John", "Doe", null, "SecurePass123");
+        loginRequest = new LoginRequest("store-1", "test@example.com", "SecurePass123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggingSystem.cleanUp();
+        console.close();
+    }
+
+    @Benchmark
+    public void signUp() {
+        if ("before".equals(variant)) {
+            serviceLogger.info("Processing signup for user with email: {}", signUpRequest.getEmail());
+        } else if ("after-unsampled".equals(variant)) {
+            logEvent("user.signup", "Processing signup");
+        } else {
+            authService.signUpUser(signUpRequest);
+        }
+    }
+
+    @Benchmark
+    public void login() {
+        if ("before".equals(variant)) {
+            serviceLogger.info("Processing login for user with email: {}", loginRequest.getEmail());
+        } else if ("after-unsampled".equals(variant)) {
+            logEvent("user.login", "Processing login");
+        } else {
+            authService.loginUser(loginRequest);
+        }
+    }
+
+    private void logEvent(String event, String message) {
+        serviceLogger.atInfo()
+                .addKeyValue("event", event)
+                .addKeyValue("tenantId", loginRequest.getTenantId())
+                .addKeyValue("emailHash", logIdentifiers.hashEmail(loginRequest.getEmail()))
+                .addKeyValue("skipped", 0)
+                .log(message);
+    }
+
+    private static final class NoOpLoginAttemptStore implements LoginAttemptStore {
+
+        @Override
+        public void saveLockout(Lockout lockout) {
+        }
+
+        @Override
+        public List<Lockout> findActiveLockouts(Instant now) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sp.sp_user_service.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogIdentifiers Unit Tests")
+class LogIdentifiersTest {
+
+    private final LogIdentifiers logIdentifiers = new LogIdentifiers("test-key".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("Should hash emails without exposing them")
+    void shouldHashEmail() {
+        // When
+        String hash = logIdentifiers.hashEmail("test@example.com");
+
+        // Then
+        assertEquals(16, hash.length());
+        assertFalse(hash.contains("example"));
+    }
+
+    @Test
+    @DisplayName("Should produce the same hash for differently cased emails")
+    void shouldNormalizeEmailBeforeHashing() {
+        // When & Then
+        assertEquals(logIdentifiers.hashEmail("test@example.com"), logIdentifiers.hashEmail(" Test@Example.com "));
+    }
+
+    @Test
+    @DisplayName("Should not be reproducible without the key")
+    void shouldDependOnKey() throws Exception {
+        // Given
+        LogIdentifiers otherKey = new LogIdentifiers("other-key".getBytes(StandardCharsets.UTF_8));
+        byte[] plainSha256 = MessageDigest.getInstance("SHA-256").digest("test@example.com".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        String hash = logIdentifiers.hashEmail("test@example.com");
+
+        // Then
+        assertNotEquals(otherKey.hashEmail("test@example.com"), hash);
+        assertNotEquals(HexFormat.of().formatHex(plainSha256, 0, 8), hash);
+    }
+
+    @Test
+    @DisplayName("Should return null for null identifiers")
+    void shouldReturnNullForNull() {
+        // When & Then
+        assertNull(logIdentifiers.hash(null));
+        assertNull(logIdentifiers.hashEmail(null));
+    }
+}
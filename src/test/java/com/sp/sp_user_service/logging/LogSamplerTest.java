@@ -0,0 +1,88 @@
+package com.sp.sp_user_service.logging;
+
+import com.sp.sp_user_service.config.LoggingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogSampler Unit Tests")
+class LogSamplerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should keep one in every N occurrences")
+    void shouldKeepOneInEveryN() {
+        // Given
+        LogSampler sampler = new LogSampler(10, 1000, clock::get);
+
+        // When
+        int written = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.sample()) {
+                written++;
+            }
+        }
+
+        // Then
+        assertEquals(10, written);
+        assertEquals(90, sampler.drainSkipped());
+        assertEquals(0, sampler.drainSkipped());
+    }
+
+    @Test
+    @DisplayName("Should sample as configured for the event")
+    void shouldSampleAsConfigured() {
+        // Given
+        LogSampler sampler = new LogSampler(new LoggingProperties.Event(4, 1000));
+
+        // When
+        int written = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.sample()) {
+                written++;
+            }
+        }
+
+        // Then
+        assertEquals(25, written);
+    }
+
+    @Test
+    @DisplayName("Should cap written events per second")
+    void shouldCapEventsPerSecond() {
+        // Given
+        LogSampler sampler = new LogSampler(1, 5, clock::get);
+
+        // When
+        int written = 0;
+        for (int i = 0; i < 20; i++) {
+            if (sampler.sample()) {
+                written++;
+            }
+        }
+
+        // Then
+        assertEquals(5, written);
+        assertEquals(15, sampler.drainSkipped());
+    }
+
+    @Test
+    @DisplayName("Should start a new budget in the next second")
+    void shouldResetBudgetEverySecond() {
+        // Given
+        LogSampler sampler = new LogSampler(1, 1, clock::get);
+        assertTrue(sampler.sample());
+        assertFalse(sampler.sample());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertTrue(sampler.sample());
+    }
+}
@@ -0,0 +1,92 @@
+package com.sp.sp_user_service.repository;
+
+import com.sp.sp_user_service.lockout.Lockout;
+import com.sp.sp_user_service.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database=H2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("UserRepository Tests")
+class UserRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setTenantId("store-1");
+        user.setEmail("test@example.com");
+        entityManager.persistAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Should set a lock on an unlocked user")
+    void shouldSetLock() {
+        // When
+        userRepository.extendLockout("store-1", "test@example.com", NOW.plus(15, ChronoUnit.MINUTES));
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, userRepository.findActiveLockouts(NOW).size());
+    }
+
+    @Test
+    @DisplayName("Should return active lockouts and skip expired ones")
+    void shouldFindActiveLockouts() {
+        // Given
+        Instant lockedUntil = NOW.plus(15, ChronoUnit.MINUTES);
+        userRepository.extendLockout("store-1", "test@example.com", lockedUntil);
+        entityManager.clear();
+
+        // When & Then
+        assertEquals(List.of(new Lockout("store-1", "test@example.com", lockedUntil)), userRepository.findActiveLockouts(NOW));
+        assertTrue(userRepository.findActiveLockouts(lockedUntil).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not shorten a later stored lock")
+    void shouldNotShortenLaterLock() {
+        // Given
+        Instant later = NOW.plus(20, ChronoUnit.MINUTES);
+        userRepository.extendLockout("store-1", "test@example.com", later);
+
+        // When
+        userRepository.extendLockout("store-1", "test@example.com", NOW.plus(5, ChronoUnit.MINUTES));
+        entityManager.clear();
+
+        // Then
+        assertEquals(later, userRepository.findByTenantIdAndEmail("store-1", "test@example.com").orElseThrow().getLockedUntil());
+    }
+
+    @Test
+    @DisplayName("Should only lock the user in the given tenant")
+    void shouldScopeLockToTenant() {
+        // When
+        int updated = userRepository.extendLockout("store-2", "test@example.com", NOW.plus(15, ChronoUnit.MINUTES));
+
+        // Then
+        assertEquals(0, updated);
+    }
+}
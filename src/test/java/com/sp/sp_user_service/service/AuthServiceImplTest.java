@@ -1,30 +1,61 @@
 package com.sp.sp_user_service.service;
 
+import com.sp.sp_user_service.config.LoggingProperties;
+import com.sp.sp_user_service.config.LoginAttemptProperties;
+import com.sp.sp_user_service.config.TenantBulkheadProperties;
+import com.sp.sp_user_service.limiter.TenantBulkhead;
+import com.sp.sp_user_service.lockout.AccountLockedException;
+import com.sp.sp_user_service.lockout.LoginAttemptStore;
+import com.sp.sp_user_service.lockout.LoginAttemptTracker;
+import com.sp.sp_user_service.logging.LogIdentifiers;
 import com.sp.sp_user_service.model.LoginRequest;
 import com.sp.sp_user_service.model.SignUpRequest;
+import com.sp.sp_user_service.model.User;
+import com.sp.sp_user_service.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthServiceImpl Unit Tests")
 class AuthServiceImplTest {
 
-    @InjectMocks
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     private AuthServiceImpl authService;
+    private TenantBulkhead tenantBulkhead;
+    private LoginAttemptTracker loginAttemptTracker;
 
     private SignUpRequest validSignUpRequest;
     private LoginRequest validLoginRequest;
 
     @BeforeEach
     void setUp() {
+        loginAttemptTracker = new LoginAttemptTracker(new LoginAttemptProperties(), mock(LoginAttemptStore.class), Clock.systemUTC());
+        tenantBulkhead = new TenantBulkhead(new TenantBulkheadProperties());
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, tenantBulkhead, loginAttemptTracker,
+                new LogIdentifiers("test-key".getBytes()), new LoggingProperties());
         validSignUpRequest = createValidSignUpRequest();
         validLoginRequest = createValidLoginRequest();
     }
@@ -32,10 +63,46 @@ class AuthServiceImplTest {
     @Test
     @DisplayName("Should successfully process signup for valid user")
     void shouldProcessSignUpForValidUser() {
-        // Given - valid signup request is prepared in setUp()
+        // Given
+        validSignUpRequest.setEmail(" Test@Example.com ");
+        given(userRepository.existsByTenantIdAndEmail("store-1", "test@example.com")).willReturn(false);
+        given(passwordEncoder.encode("SecurePass123")).willReturn("hashed");
 
-        // When & Then - should not throw any exception
+        // When
+        assertDoesNotThrow(() -> authService.signUpUser(validSignUpRequest));
+
+        // Then
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        then(userRepository).should().save(captor.capture());
+        assertEquals("store-1", captor.getValue().getTenantId());
+        assertEquals("test@example.com", captor.getValue().getEmail());
+        assertEquals("hashed", captor.getValue().getPasswordHash());
+    }
+
+    @Test
+    @DisplayName("Should hash the signup password without holding a tenant permit")
+    void shouldHashSignUpPasswordOutsideBulkhead() {
+        // Given
+        int permits = tenantBulkhead.availablePermits("store-1");
+        given(passwordEncoder.encode("SecurePass123")).willAnswer(invocation -> {
+            assertEquals(permits, tenantBulkhead.availablePermits("store-1"));
+            return "hashed";
+        });
+
+        // When & Then
         assertDoesNotThrow(() -> authService.signUpUser(validSignUpRequest));
+        then(passwordEncoder).should().encode("SecurePass123");
+    }
+
+    @Test
+    @DisplayName("Should reject signup for an existing user")
+    void shouldRejectSignUpForExistingUser() {
+        // Given
+        given(userRepository.existsByTenantIdAndEmail("store-1", "test@example.com")).willReturn(true);
+
+        // When & Then
+        assertThrows(UserAlreadyExistsException.class, () -> authService.signUpUser(validSignUpRequest));
+        then(userRepository).should(never()).save(any(User.class));
     }
 
     @Test
@@ -44,17 +111,85 @@ class AuthServiceImplTest {
         // Given
         SignUpRequest nullRequest = null;
 
-        // When & Then - should handle gracefully (current implementation logs but doesn't throw)
+        // When & Then
         assertThrows(NullPointerException.class, () -> authService.signUpUser(nullRequest));
     }
 
     @Test
     @DisplayName("Should successfully process login for valid user")
     void shouldProcessLoginForValidUser() {
-        // Given - valid login request is prepared in setUp()
+        // Given
+        given(userRepository.findByTenantIdAndEmail("store-1", "test@example.com")).willReturn(Optional.of(createUser()));
+        given(passwordEncoder.matches("SecurePass123", "hashed")).willReturn(true);
 
-        // When & Then - should not throw any exception
+        // When & Then
+        assertDoesNotThrow(() -> authService.loginUser(validLoginRequest));
+    }
+
+    @Test
+    @DisplayName("Should check the login password without holding a tenant permit")
+    void shouldCheckLoginPasswordOutsideBulkhead() {
+        // Given
+        int permits = tenantBulkhead.availablePermits("store-1");
+        given(userRepository.findByTenantIdAndEmail("store-1", "test@example.com")).willReturn(Optional.of(createUser()));
+        given(passwordEncoder.matches("SecurePass123", "hashed")).willAnswer(invocation -> {
+            assertEquals(permits, tenantBulkhead.availablePermits("store-1"));
+            return true;
+        });
+
+        // When & Then
         assertDoesNotThrow(() -> authService.loginUser(validLoginRequest));
+        then(passwordEncoder).should().matches("SecurePass123", "hashed");
+    }
+
+    @Test
+    @DisplayName("Should reject login with a wrong password")
+    void shouldRejectLoginWithWrongPassword() {
+        // Given
+        given(userRepository.findByTenantIdAndEmail("store-1", "test@example.com")).willReturn(Optional.of(createUser()));
+        given(passwordEncoder.matches("SecurePass123", "hashed")).willReturn(false);
+
+        // When & Then
+        assertThrows(InvalidCredentialsException.class, () -> authService.loginUser(validLoginRequest));
+    }
+
+    @Test
+    @DisplayName("Should reject login for an unknown email after a password check")
+    void shouldRejectLoginForUnknownEmail() {
+        // Given
+        given(userRepository.findByTenantIdAndEmail("store-1", "test@example.com")).willReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(InvalidCredentialsException.class, () -> authService.loginUser(validLoginRequest));
+        then(passwordEncoder).should().matches(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should lock the account after repeated wrong passwords")
+    void shouldLockAfterRepeatedWrongPasswords() {
+        // Given
+        given(userRepository.findByTenantIdAndEmail("store-1", "test@example.com")).willReturn(Optional.of(createUser()));
+        given(passwordEncoder.matches("SecurePass123", "hashed")).willReturn(false);
+        for (int i = 0; i < new LoginAttemptProperties().getMaxFailures(); i++) {
+            assertThrows(InvalidCredentialsException.class, () -> authService.loginUser(validLoginRequest));
+        }
+
+        // When & Then
+        assertThrows(AccountLockedException.class, () -> authService.loginUser(validLoginRequest));
+    }
+
+    @Test
+    @DisplayName("Should reject login for a locked account")
+    void shouldRejectLoginForLockedAccount() {
+        // Given
+        for (int i = 0; i < new LoginAttemptProperties().getMaxFailures(); i++) {
+            loginAttemptTracker.recordFailure(validLoginRequest.getTenantId(), validLoginRequest.getEmail());
+        }
+
+        // When & Then
+        AccountLockedException exception = assertThrows(AccountLockedException.class, () -> authService.loginUser(validLoginRequest));
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        then(userRepository).should(never()).findByTenantIdAndEmail(anyString(), anyString());
     }
 
     @Test
@@ -101,6 +236,7 @@ class AuthServiceImplTest {
 
     private SignUpRequest createValidSignUpRequest() {
         SignUpRequest request = new SignUpRequest();
+        request.setTenantId("store-1");
         request.setEmail("test@example.com");
         request.setFirstName("John");
         request.setLastName("Doe");
@@ -111,8 +247,17 @@ class AuthServiceImplTest {
 
     private LoginRequest createValidLoginRequest() {
         LoginRequest request = new LoginRequest();
+        request.setTenantId("store-1");
         request.setEmail("test@example.com");
         request.setPassword("SecurePass123");
         return request;
     }
+
+    private User createUser() {
+        User user = new User();
+        user.setTenantId("store-1");
+        user.setEmail("test@example.com");
+        user.setPasswordHash("hashed");
+        return user;
+    }
 }